@@ -0,0 +1,49 @@
+#!/usr/bin/env bash
+# 기동 시간 벤치마크: 모드별로 N번 기동(refresh 직후 종료)해서 중앙값/최소값을 출력한다.
+#   ./gradlew cdsArchive && scripts/startup-benchmark.sh [반복 횟수]
+# 모든 모드는 같은 추출 jar(build/cds)를 benchmark 프로필로 실행한다.
+# benchmark 프로필은 기동 중 DB 접속(JDBC 메타데이터 조회, 방언 감지)을 끄므로 원격 DB 없이 재현 가능하다.
+# 모드
+#   baseline   : 기본 설정
+#   faststart  : faststart 프로필 (지연 초기화, 미사용 자동설정 제외)
+#   cds        : faststart + CDS 아카이브
+#   cds+aot    : faststart + CDS + Spring AOT
+set -euo pipefail
+
+RUNS="${1:-10}"
+ROOT="$(cd "$(dirname "$0")/.." && pwd)"
+JAVA="${JAVA_HOME:+$JAVA_HOME/bin/}java"
+CDS_DIR="$ROOT/build/cds"
+
+if [[ ! -f "$CDS_DIR/application.jsa" ]]; then
+  echo "CDS 아카이브가 없습니다. 먼저 ./gradlew cdsArchive 를 실행하세요." >&2
+  exit 1
+fi
+# CDS 는 학습 실행과 같은 클래스패스여야 하므로 build/cds 에서 상대 경로로 실행
+cd "$CDS_DIR"
+JAR="$(ls ./*.jar | head -n 1)"
+
+run_mode() {
+  local name="$1"; shift
+  local times=()
+  for ((i = 0; i < RUNS; i++)); do
+    local start end
+    start=$(date +%s%N)
+    if ! "$JAVA" -Dspring.context.exit=onRefresh "$@" -jar "$JAR" > /dev/null 2>&1; then
+      echo "$name 기동 실패: $JAVA $* -jar $JAR" >&2
+      exit 1
+    fi
+    end=$(date +%s%N)
+    times+=($(( (end - start) / 1000000 )))
+  done
+  local sorted
+  sorted=($(printf '%s\n' "${times[@]}" | sort -n))
+  printf '%-10s median %6sms  min %6sms  (runs=%s)\n' \
+    "$name" "${sorted[$(( RUNS / 2 ))]}" "${sorted[0]}" "$RUNS"
+}
+
+run_mode baseline  -Dspring.profiles.active=benchmark
+run_mode faststart -Dspring.profiles.active=faststart,benchmark
+run_mode cds       -XX:SharedArchiveFile=application.jsa -Dspring.profiles.active=faststart,benchmark
+run_mode cds+aot   -XX:SharedArchiveFile=application.jsa -Dspring.aot.enabled=true \
+                   -Dspring.profiles.active=faststart,benchmark
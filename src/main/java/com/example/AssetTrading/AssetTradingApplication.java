@@ -2,12 +2,18 @@ package com.example.AssetTrading;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class AssetTradingApplication {
 
 	public static void main(String[] args) {
-		SpringApplication.run(AssetTradingApplication.class, args);
+		SpringApplication application = new SpringApplication(AssetTradingApplication.class);
+		// 기동 단계별 소요 시간 기록 (/actuator/startup, startup.report.top)
+		application.setApplicationStartup(new BufferingApplicationStartup(4096));
+		application.run(args);
 	}
 
 }
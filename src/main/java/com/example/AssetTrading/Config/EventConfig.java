@@ -0,0 +1,44 @@
+package com.example.AssetTrading.Config;
+
+import com.example.AssetTrading.Event.DomainEventBus;
+import com.example.AssetTrading.Event.DomainEventHandler;
+import com.example.AssetTrading.Event.WaitStrategy;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+// 도메인 이벤트 버스 설정 (events.ring-size, events.wait-strategy)
+@Configuration
+public class EventConfig {
+
+    @Bean(destroyMethod = "close")
+    public DomainEventBus domainEventBus(@Value("${events.ring-size:1024}") int ringSize,
+                                         @Value("${events.wait-strategy:blocking}") String waitStrategy,
+                                         List<DomainEventHandler> handlers,
+                                         MeterRegistry meterRegistry) {
+        DomainEventBus bus = new DomainEventBus(ringSize, WaitStrategy.of(waitStrategy), handlers);
+
+        FunctionCounter.builder("domain.events.published", bus, DomainEventBus::publishedCount)
+                .description("발행된 도메인 이벤트 수")
+                .register(meterRegistry);
+        FunctionCounter.builder("domain.events.failed", bus, DomainEventBus::failureCount)
+                .description("핸들러에서 실패한 이벤트 수")
+                .register(meterRegistry);
+        for (String consumer : bus.consumerNames()) {
+            Gauge.builder("domain.events.lag", bus, b -> b.lag(consumer))
+                    .description("소비자가 아직 처리하지 못한 이벤트 수")
+                    .tag("consumer", consumer)
+                    .register(meterRegistry);
+            Gauge.builder("domain.events.consumer.alive", bus, b -> b.isAlive(consumer) ? 1 : 0)
+                    .description("소비자 스레드 동작 여부 (0이면 이벤트가 전달되지 않음)")
+                    .tag("consumer", consumer)
+                    .register(meterRegistry);
+        }
+        return bus;
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.AssetTrading.Config;
+
+import com.example.AssetTrading.Event.DomainEventBus;
+import com.example.AssetTrading.Service.AutocompleteService;
+import com.example.AssetTrading.Service.RecommendationService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+
+import java.util.Comparator;
+import java.util.StringJoiner;
+
+// 빠른 기동(faststart 프로필) 관련 설정과 기동 시간 리포트
+@Slf4j
+@Configuration
+public class StartupConfig {
+
+    @Value("${startup.report.top:0}")
+    private int reportTop;
+
+    // 지연 초기화를 켜도 기동 직후부터 인덱스 재빌드, 이벤트 소비자 스레드와 lag 메트릭이 있어야 하므로 즉시 생성
+    @Bean
+    static LazyInitializationExcludeFilter eagerBackgroundBeans() {
+        return LazyInitializationExcludeFilter.forBeanTypes(
+                AutocompleteService.class, RecommendationService.class, DomainEventBus.class);
+    }
+
+    // 기동 완료 시 가장 오래 걸린 단계 상위 N개를 로그로 남긴다 (0이면 끔)
+    @EventListener(ApplicationReadyEvent.class)
+    public void reportStartup(ApplicationReadyEvent event) {
+        ApplicationStartup startup = event.getApplicationContext().getApplicationStartup();
+        if (reportTop <= 0 || !(startup instanceof BufferingApplicationStartup buffering)) {
+            return;
+        }
+        log.info("기동 완료 {}ms, 오래 걸린 단계 상위 {}개:", event.getTimeTaken().toMillis(), reportTop);
+        buffering.getBufferedTimeline().getEvents().stream()
+                .sorted(Comparator.comparing(StartupTimeline.TimelineEvent::getDuration).reversed())
+                .limit(reportTop)
+                .forEach(e -> log.info("  {}ms {} {}", e.getDuration().toMillis(),
+                        e.getStartupStep().getName(), tagsOf(e.getStartupStep())));
+    }
+
+    private static String tagsOf(StartupStep step) {
+        StringJoiner joiner = new StringJoiner(", ", "[", "]");
+        for (StartupStep.Tag tag : step.getTags()) {
+            joiner.add(tag.getKey() + "=" + tag.getValue());
+        }
+        return joiner.toString();
+    }
+}
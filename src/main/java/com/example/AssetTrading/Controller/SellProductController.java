@@ -2,6 +2,8 @@ package com.example.AssetTrading.Controller;
 
 import com.example.AssetTrading.Dto.SellProductRequestDto;
 import com.example.AssetTrading.Dto.SellProductResponseDto;
+import com.example.AssetTrading.Service.AutocompleteService;
+import com.example.AssetTrading.Service.RecommendationService;
 import com.example.AssetTrading.Service.SellProductService;
 import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
@@ -16,6 +18,8 @@ import java.util.List;
 public class SellProductController {
 
     private final SellProductService sellProductService;
+    private final AutocompleteService autocompleteService;
+    private final RecommendationService recommendationService;
 
 
 
@@ -34,6 +38,13 @@ public class SellProductController {
         return ResponseEntity.ok(products);
     }
 
+    // 검색창 자동완성 (입력할 때마다 호출)
+    @GetMapping("/autocomplete")
+    public ResponseEntity<List<String>> autocomplete(@RequestParam String prefix,
+                                                     @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(autocompleteService.suggest(prefix, limit));
+    }
+
     // ID로 특정 판매 상vna정보를 조회
     @GetMapping("/seller/{sellerUserId}")
     public ResponseEntity<SellProductResponseDto> getSellProductBySellerId(@PathVariable Long sellerUserId) {
@@ -41,6 +52,13 @@ public class SellProductController {
         return ResponseEntity.ok(responseDto);
     }
 
+    // 상품 상세 화면의 유사 상품 추천 (판매중인 상품만)
+    @GetMapping("/{productId}/similar")
+    public ResponseEntity<List<SellProductResponseDto>> getSimilarProducts(@PathVariable Long productId,
+                                                                           @RequestParam(defaultValue = "5") int limit) {
+        return ResponseEntity.ok(recommendationService.similarTo(productId, limit));
+    }
+
     // 특정 판매 상품을 삭제
     @DeleteMapping("/seller/{sellerUserId}")
     public ResponseEntity<Void> deleteSellProduct(@PathVariable Long sellerUserId) {
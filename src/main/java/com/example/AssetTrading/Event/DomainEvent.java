@@ -0,0 +1,53 @@
+package com.example.AssetTrading.Event;
+
+import com.example.AssetTrading.Entity.ProductStatus;
+import com.example.AssetTrading.Entity.SellProduct;
+import com.example.AssetTrading.Entity.User;
+import lombok.Getter;
+
+/**
+ * 링 버퍼에 미리 만들어 두고 재사용하는 이벤트 슬롯.
+ * 발행할 때는 새 객체를 만들지 않고 필드만 덮어쓴다.
+ * 슬롯은 곧 다른 이벤트로 재사용되므로 핸들러는 참조를 보관하지 말고 필요한 값만 꺼내 써야 한다.
+ * type이 null이면 채우다 실패한 슬롯이므로 무시하면 된다.
+ */
+@Getter
+public final class DomainEvent {
+
+    private DomainEventType type;
+    private long productId;
+    private String productTitle;
+    private String productDesc;
+    private ProductStatus productStatus;
+    private String userId;
+
+    void fillProduct(DomainEventType type, SellProduct product) {
+        this.productId = product.getId();
+        this.type = type;
+        this.productTitle = product.getProductTitle();
+        this.productDesc = product.getProductDesc();
+        this.productStatus = product.getProductStatus();
+        this.userId = product.getSellerUserId();
+    }
+
+    void fillProductDeleted(long productId) {
+        clear();
+        this.type = DomainEventType.PRODUCT_DELETED;
+        this.productId = productId;
+    }
+
+    void fillUser(DomainEventType type, User user) {
+        clear();
+        this.type = type;
+        this.userId = user.getUserId();
+    }
+
+    void clear() {
+        this.type = null;
+        this.productId = 0L;
+        this.productTitle = null;
+        this.productDesc = null;
+        this.productStatus = null;
+        this.userId = null;
+    }
+}
@@ -0,0 +1,208 @@
+package com.example.AssetTrading.Event;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 미리 할당한 링 버퍼 위의 프로세스 내 이벤트 버스 (Disruptor 방식).
+ * 발행: next()로 sequence를 받고, get(sequence) 슬롯을 채운 뒤 publish(sequence). 이 경로에서는 할당이 없다.
+ * 소비: 핸들러마다 전용 스레드가 발행된 구간을 한 번에 꺼내 순서대로 처리한다.
+ * 가장 느린 소비자가 한 바퀴 뒤처지면 발행 쪽이 기다린다. 스레드가 죽은 소비자는 기다리지 않는다.
+ */
+@Slf4j
+public final class DomainEventBus implements AutoCloseable {
+
+    private final DomainEvent[] entries;
+    private final AtomicLongArray published;   // 슬롯별로 마지막으로 발행된 sequence
+    private final int mask;
+    private final AtomicLong cursor = new AtomicLong(-1);   // 마지막으로 발급된 sequence
+    private final AtomicLong failures = new AtomicLong();
+    private final WaitStrategy waitStrategy;
+    private final Map<String, Consumer> consumers = new LinkedHashMap<>();
+    private volatile long gatingCache = -1;
+    private volatile boolean running = true;
+
+    public DomainEventBus(int ringSize, WaitStrategy waitStrategy, List<DomainEventHandler> handlers) {
+        if (ringSize <= 0 || Integer.bitCount(ringSize) != 1) {
+            throw new IllegalArgumentException("ringSize는 2의 거듭제곱이어야 합니다: " + ringSize);
+        }
+        this.entries = new DomainEvent[ringSize];
+        this.published = new AtomicLongArray(ringSize);
+        for (int i = 0; i < ringSize; i++) {
+            entries[i] = new DomainEvent();
+            published.set(i, -1L);
+        }
+        this.mask = ringSize - 1;
+        this.waitStrategy = waitStrategy;
+
+        for (DomainEventHandler handler : handlers) {
+            Consumer consumer = new Consumer(handler);
+            if (consumers.putIfAbsent(handler.name(), consumer) != null) {
+                throw new IllegalArgumentException("이벤트 핸들러 이름이 중복됩니다: " + handler.name());
+            }
+        }
+        consumers.values().forEach(c -> c.thread.start());
+    }
+
+    // 다음 슬롯의 sequence를 발급한다. 링이 가득 차면 가장 느린 소비자가 비워 줄 때까지 기다린다.
+    public long next() {
+        if (!running) {
+            throw new IllegalStateException("이벤트 버스가 종료되었습니다.");
+        }
+        long sequence = cursor.incrementAndGet();
+        long wrapPoint = sequence - entries.length;
+        if (wrapPoint > gatingCache) {
+            long min;
+            while (wrapPoint > (min = minConsumerSequence())) {
+                if (!running) {
+                    throw new IllegalStateException("이벤트 버스가 종료되었습니다.");
+                }
+                LockSupport.parkNanos(1_000L);
+            }
+            gatingCache = min;
+        }
+        return sequence;
+    }
+
+    public DomainEvent get(long sequence) {
+        return entries[(int) sequence & mask];
+    }
+
+    // next()로 받은 sequence는 슬롯 채우기에 실패해도 반드시 publish 해야 소비자가 멈추지 않는다
+    public void publish(long sequence) {
+        published.set((int) sequence & mask, sequence);
+        waitStrategy.signalAll();
+    }
+
+    public long publishedCount() {
+        return cursor.get() + 1;
+    }
+
+    public long failureCount() {
+        return failures.get();
+    }
+
+    public Set<String> consumerNames() {
+        return Collections.unmodifiableSet(consumers.keySet());
+    }
+
+    // 발급된 이벤트 중 해당 소비자가 아직 처리하지 못한 개수
+    public long lag(String consumerName) {
+        return Math.max(0L, cursor.get() - consumer(consumerName).sequence.get());
+    }
+
+    // 소비자 스레드가 예기치 않게 끝나면 false (이후 이벤트는 그 소비자에게 전달되지 않는다)
+    public boolean isAlive(String consumerName) {
+        return consumer(consumerName).alive;
+    }
+
+    // 더 이상 발행을 받지 않고, 이미 발행된 이벤트를 처리한 뒤 소비자 스레드를 끝낸다
+    @Override
+    public void close() {
+        running = false;
+        waitStrategy.signalAll();
+        for (Consumer consumer : consumers.values()) {
+            try {
+                consumer.thread.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private Consumer consumer(String consumerName) {
+        Consumer consumer = consumers.get(consumerName);
+        if (consumer == null) {
+            throw new IllegalArgumentException("이벤트 핸들러를 찾을 수 없습니다: " + consumerName);
+        }
+        return consumer;
+    }
+
+    // 죽은 소비자는 진행하지 않으므로 제외해야 발행 쪽이 무한히 기다리지 않는다
+    private long minConsumerSequence() {
+        long min = Long.MAX_VALUE;
+        for (Consumer consumer : consumers.values()) {
+            if (consumer.alive) {
+                min = Math.min(min, consumer.sequence.get());
+            }
+        }
+        return min;
+    }
+
+    // from부터 연속으로 발행이 끝난 마지막 sequence (없으면 from - 1)
+    private long highestPublished(long from) {
+        long claimed = cursor.get();
+        long sequence = from;
+        while (sequence <= claimed && published.get((int) sequence & mask) == sequence) {
+            sequence++;
+        }
+        return sequence - 1;
+    }
+
+    private final class Consumer implements Runnable {
+
+        private final DomainEventHandler handler;
+        private final AtomicLong sequence = new AtomicLong(-1);   // 처리를 마친 마지막 sequence
+        private final Thread thread;
+        private volatile boolean alive = true;
+        private long next;   // 다음에 처리할 sequence (소비자 스레드 전용)
+
+        // 대기 중 다시 확인할 조건, 매번 만들지 않도록 한 번만 생성
+        private final BooleanSupplier ready = () -> !running || highestPublished(next) >= next;
+
+        private Consumer(DomainEventHandler handler) {
+            this.handler = handler;
+            this.thread = new Thread(this, "domain-event-" + handler.name());
+            this.thread.setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+            try {
+                consume();
+            } catch (Throwable t) {
+                log.error("이벤트 소비자 스레드 비정상 종료: handler={}", handler.name(), t);
+            } finally {
+                alive = false;
+            }
+        }
+
+        private void consume() {
+            int attempt = 0;
+            while (true) {
+                long available = highestPublished(next);
+                if (available < next) {
+                    if (!running) {
+                        return;
+                    }
+                    try {
+                        waitStrategy.idle(attempt++, ready);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    continue;
+                }
+                attempt = 0;
+                for (long s = next; s <= available; s++) {
+                    try {
+                        handler.onEvent(get(s), s, s == available);
+                    } catch (Throwable t) {
+                        // Error 포함, 핸들러 하나가 실패해도 다음 이벤트는 계속 처리
+                        failures.incrementAndGet();
+                        log.warn("이벤트 처리 실패: handler={}, sequence={}", handler.name(), s, t);
+                    }
+                }
+                sequence.lazySet(available);
+                next = available + 1;
+            }
+        }
+    }
+}
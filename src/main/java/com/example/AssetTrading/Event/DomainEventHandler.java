@@ -0,0 +1,17 @@
+package com.example.AssetTrading.Event;
+
+import org.springframework.util.ClassUtils;
+
+/**
+ * 이벤트 버스 소비자. 핸들러마다 전용 스레드 하나에서 순서대로 호출된다.
+ * endOfBatch는 지금 꺼낸 묶음의 마지막 이벤트일 때 true (모아서 처리하는 핸들러용).
+ */
+public interface DomainEventHandler {
+
+    void onEvent(DomainEvent event, long sequence, boolean endOfBatch);
+
+    // 스레드 이름과 lag 메트릭 태그에 쓰인다
+    default String name() {
+        return ClassUtils.getUserClass(getClass()).getSimpleName();
+    }
+}
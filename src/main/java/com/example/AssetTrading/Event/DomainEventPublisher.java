@@ -0,0 +1,65 @@
+package com.example.AssetTrading.Event;
+
+import com.example.AssetTrading.Entity.SellProduct;
+import com.example.AssetTrading.Entity.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 서비스 쓰기 작업의 도메인 이벤트 발행. 트랜잭션 안이면 커밋된 뒤에, 아니면 바로 발행한다.
+@Component
+@RequiredArgsConstructor
+public class DomainEventPublisher {
+
+    private final DomainEventBus domainEventBus;
+
+    public void productCreated(SellProduct product) {
+        publish(DomainEventType.PRODUCT_CREATED, product, null, 0L);
+    }
+
+    public void productStatusChanged(SellProduct product) {
+        publish(DomainEventType.PRODUCT_STATUS_CHANGED, product, null, 0L);
+    }
+
+    public void productDeleted(long productId) {
+        publish(DomainEventType.PRODUCT_DELETED, null, null, productId);
+    }
+
+    public void userRegistered(User user) {
+        publish(DomainEventType.USER_REGISTERED, null, user, 0L);
+    }
+
+    // 트랜잭션이 없으면 할당 없이 바로 발행, 있으면 커밋 후 발행 (롤백되면 발행하지 않음)
+    private void publish(DomainEventType type, SellProduct product, User user, long productId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()
+                && TransactionSynchronizationManager.isActualTransactionActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publishNow(type, product, user, productId);
+                }
+            });
+            return;
+        }
+        publishNow(type, product, user, productId);
+    }
+
+    // next()로 받은 슬롯은 채우다 실패해도 비운 채로 반드시 publish 해야 소비자가 멈추지 않는다
+    private void publishNow(DomainEventType type, SellProduct product, User user, long productId) {
+        long sequence = domainEventBus.next();
+        DomainEvent event = domainEventBus.get(sequence);
+        try {
+            switch (type) {
+                case PRODUCT_CREATED, PRODUCT_STATUS_CHANGED -> event.fillProduct(type, product);
+                case PRODUCT_DELETED -> event.fillProductDeleted(productId);
+                case USER_REGISTERED -> event.fillUser(type, user);
+            }
+        } catch (RuntimeException e) {
+            event.clear();
+            throw e;
+        } finally {
+            domainEventBus.publish(sequence);
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.AssetTrading.Event;
+
+public enum DomainEventType {
+    PRODUCT_CREATED,         // 상품 등록
+    PRODUCT_STATUS_CHANGED,  // 판매 상태 변경
+    PRODUCT_DELETED,         // 상품 삭제
+    USER_REGISTERED          // 회원 가입
+}
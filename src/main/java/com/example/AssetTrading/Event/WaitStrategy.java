@@ -0,0 +1,90 @@
+package com.example.AssetTrading.Event;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 소비자가 새 이벤트를 기다리는 방식.
+ * busy-spin > yielding > sleeping > blocking 순으로 지연은 크고 CPU 사용은 적다.
+ */
+public interface WaitStrategy {
+
+    // 새 이벤트가 없을 때 호출된다. attempt는 이번 대기에서 몇 번째 호출인지 (0부터),
+    // ready는 처리할 이벤트가 생겼거나 버스가 종료되면 true (잠들기 전 다시 확인하는 용도)
+    void idle(int attempt, BooleanSupplier ready) throws InterruptedException;
+
+    // 발행 직후 호출된다 (blocking에서만 의미 있음)
+    default void signalAll() {
+    }
+
+    static WaitStrategy of(String name) {
+        switch (name.trim().toLowerCase(Locale.ROOT)) {
+            case "busy-spin":
+                return (attempt, ready) -> Thread.onSpinWait();
+            case "yielding":
+                return (attempt, ready) -> {
+                    if (attempt < 100) {
+                        Thread.onSpinWait();
+                    } else {
+                        Thread.yield();
+                    }
+                };
+            case "sleeping":
+                return (attempt, ready) -> {
+                    if (attempt < 100) {
+                        Thread.onSpinWait();
+                    } else if (attempt < 200) {
+                        Thread.yield();
+                    } else {
+                        LockSupport.parkNanos(100_000L);
+                    }
+                };
+            case "blocking":
+                return new Blocking();
+            default:
+                throw new IllegalArgumentException("알 수 없는 대기 전략입니다: " + name);
+        }
+    }
+
+    // 발행 쪽에서 깨워 줄 때까지 잠든다 (시간 제한 없음).
+    // 소비자는 waiters를 올린 뒤 락 안에서 ready를 다시 확인하고, 발행 쪽은 발행 표시 후 waiters를 보고
+    // 같은 락을 잡고 깨우므로 둘 중 하나는 반드시 상대를 본다. 그래서 신호를 놓치지 않는다.
+    final class Blocking implements WaitStrategy {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition published = lock.newCondition();
+        private final AtomicInteger waiters = new AtomicInteger();
+
+        @Override
+        public void idle(int attempt, BooleanSupplier ready) throws InterruptedException {
+            lock.lock();
+            try {
+                waiters.incrementAndGet();
+                while (!ready.getAsBoolean()) {
+                    published.await();
+                }
+            } finally {
+                waiters.decrementAndGet();
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public void signalAll() {
+            // 잠든 소비자가 없으면 락을 잡지 않는다
+            if (waiters.get() == 0) {
+                return;
+            }
+            lock.lock();
+            try {
+                published.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.AssetTrading.Repository;
+
+// 유사 상품 인덱스 빌드용 projection
+public interface ProductTextView {
+    Long getId();
+    String getProductTitle();
+    String getProductDesc();
+}
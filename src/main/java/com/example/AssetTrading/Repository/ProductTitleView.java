@@ -0,0 +1,7 @@
+package com.example.AssetTrading.Repository;
+
+// 자동완성 인덱스 빌드용 projection (엔티티 전체를 올리지 않기 위해)
+public interface ProductTitleView {
+    Long getId();
+    String getProductTitle();
+}
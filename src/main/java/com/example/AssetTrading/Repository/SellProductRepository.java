@@ -11,4 +11,6 @@ import java.util.List;
 public interface SellProductRepository extends JpaRepository<SellProduct, Long> {
     List<SellProduct> findByProductTitleContaining(String keyword);
     List<SellProduct> findByProductStatus(ProductStatus productStatus);
+    List<ProductTitleView> findTitlesByProductStatus(ProductStatus productStatus);
+    List<ProductTextView> findTextByProductStatus(ProductStatus productStatus);
 }
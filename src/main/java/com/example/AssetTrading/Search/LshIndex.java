@@ -0,0 +1,369 @@
+package com.example.AssetTrading.Search;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * MinHash 서명을 band 단위로 나눠 버킷에 담는 LSH 인덱스.
+ * 한 band라도 완전히 같으면 후보가 되고, 후보만 서명 유사도로 다시 정렬한다.
+ * bands x rows 가 서명 길이와 같아야 하며, 유사도 (1/bands)^(1/rows) 부근부터 후보로 잡힌다.
+ *
+ * 재빌드 결과는 불변 기본 배열로 보관한다: band별로 bandKey 오름차순 long[] 와 같은 순서의 행 번호 int[],
+ * 서명은 행 순서대로 이어 붙인 int[] 하나. 상품 하나당 band 수 x 12바이트 + 서명 크기 정도만 든다.
+ * 재빌드 사이의 등록/삭제는 작은 live 맵과 삭제 집합에 쌓였다가 다음 재빌드 때 기본 배열로 합쳐진다.
+ * 조회는 여러 스레드에서 동시에 해도 되고, 변경(put/remove)은 내부에서 직렬화된다.
+ */
+public final class LshIndex {
+
+    private final int bands;
+    private final int rows;
+
+    private final long[] baseIds;          // 행 → 상품 id (오름차순)
+    private final int[] baseSignatures;    // 행 × (bands * rows)
+    private final long[][] bandKeys;       // band별 bandKey 오름차순
+    private final int[][] bandRows;        // bandKeys와 같은 순서의 행 번호
+
+    private final ConcurrentMap<Long, int[]> live = new ConcurrentHashMap<>();
+    private final List<ConcurrentMap<Long, long[]>> liveBuckets;
+    private final Set<Long> removed = ConcurrentHashMap.newKeySet();   // 기본 배열에 있지만 삭제된 id
+
+    public LshIndex(int bands, int rows) {
+        this(bands, rows, new long[0], new int[0], new long[bands][0], new int[bands][0]);
+    }
+
+    private LshIndex(int bands, int rows, long[] baseIds, int[] baseSignatures, long[][] bandKeys, int[][] bandRows) {
+        if (bands <= 0 || rows <= 0) {
+            throw new IllegalArgumentException("bands, rows는 1 이상이어야 합니다.");
+        }
+        this.bands = bands;
+        this.rows = rows;
+        this.baseIds = baseIds;
+        this.baseSignatures = baseSignatures;
+        this.bandKeys = bandKeys;
+        this.bandRows = bandRows;
+        this.liveBuckets = new ArrayList<>(bands);
+        for (int b = 0; b < bands; b++) {
+            liveBuckets.add(new ConcurrentHashMap<>());
+        }
+    }
+
+    public static Builder builder(int bands, int rows) {
+        return new Builder(bands, rows);
+    }
+
+    public int size() {
+        int size = baseIds.length - removed.size();
+        for (Long id : live.keySet()) {
+            if (baseRow(id) < 0) {
+                size++;
+            }
+        }
+        return size;
+    }
+
+    // 인덱스에 있는 상품의 서명 (없으면 null). 돌려받은 배열은 수정하지 말 것
+    public int[] signature(Long id) {
+        int[] signature = live.get(id);
+        if (signature != null) {
+            return signature;
+        }
+        if (removed.contains(id)) {
+            return null;
+        }
+        int row = baseRow(id);
+        if (row < 0) {
+            return null;
+        }
+        int length = bands * rows;
+        return Arrays.copyOfRange(baseSignatures, row * length, (row + 1) * length);
+    }
+
+    public synchronized void put(Long id, int[] signature) {
+        checkLength(signature);
+        int[] previous = live.put(id, signature);
+        if (previous != null) {
+            unlinkLive(id, previous);
+        }
+        removed.remove(id);
+        for (int b = 0; b < bands; b++) {
+            liveBuckets.get(b).merge(bandKey(signature, b), new long[]{id}, LshIndex::concat);
+        }
+    }
+
+    public synchronized void remove(Long id) {
+        int[] previous = live.remove(id);
+        if (previous != null) {
+            unlinkLive(id, previous);
+        }
+        if (baseRow(id) >= 0) {
+            removed.add(id);
+        }
+    }
+
+    // 서명과 비슷한 항목 상위 limit개 (excludeId는 결과에서 제외, 보통 조회 중인 상품 자신)
+    public List<Neighbor> query(int[] signature, Long excludeId, int limit) {
+        checkLength(signature);
+        Set<Long> candidates = new HashSet<>();
+        for (int b = 0; b < bands; b++) {
+            long key = bandKey(signature, b);
+            long[] keys = bandKeys[b];
+            for (int i = lowerBound(keys, key); i < keys.length && keys[i] == key; i++) {
+                // 재빌드 이후 바뀐 id는 live 버킷(새 서명) 쪽에서만 후보가 된다
+                Long id = baseIds[bandRows[b][i]];
+                if (!live.containsKey(id)) {
+                    candidates.add(id);
+                }
+            }
+            long[] liveIds = liveBuckets.get(b).get(key);
+            if (liveIds != null) {
+                for (long id : liveIds) {
+                    candidates.add(id);
+                }
+            }
+        }
+        candidates.remove(excludeId);
+
+        // 후보 전체를 정렬하지 않고 상위 limit개만 힙으로 유지
+        Comparator<Neighbor> order = Comparator.comparingDouble(Neighbor::similarity)
+                .thenComparing(Neighbor::id);
+        PriorityQueue<Neighbor> top = new PriorityQueue<>(order);
+        for (Long id : candidates) {
+            double similarity = similarityTo(signature, id);
+            if (similarity < 0) {
+                continue;
+            }
+            top.add(new Neighbor(id, similarity));
+            if (top.size() > limit) {
+                top.poll();
+            }
+        }
+        List<Neighbor> result = new ArrayList<>(top);
+        result.sort(order.reversed());
+        return result;
+    }
+
+    // 대략적인 메모리 사용량 (배열 본문 + live 항목당 추정치)
+    long estimatedBytes() {
+        long bytes = 8L * baseIds.length + 4L * baseSignatures.length;
+        for (int b = 0; b < bands; b++) {
+            bytes += 8L * bandKeys[b].length + 4L * bandRows[b].length;
+        }
+        // live: 맵 노드와 Long 키, 서명 배열, band마다 버킷 노드와 long[1]
+        bytes += live.size() * (64L + 4L * bands * rows + bands * 80L);
+        return bytes;
+    }
+
+    // 인덱스에 없으면 -1
+    private double similarityTo(int[] signature, Long id) {
+        int[] other = live.get(id);
+        if (other != null) {
+            return MinHasher.similarity(signature, other);
+        }
+        if (removed.contains(id)) {
+            return -1;
+        }
+        int row = baseRow(id);
+        if (row < 0) {
+            return -1;
+        }
+        int length = signature.length;
+        int offset = row * length;
+        int same = 0;
+        for (int i = 0; i < length; i++) {
+            if (signature[i] == baseSignatures[offset + i]) {
+                same++;
+            }
+        }
+        return (double) same / length;
+    }
+
+    private int baseRow(long id) {
+        int row = Arrays.binarySearch(baseIds, id);
+        return row >= 0 ? row : -1;
+    }
+
+    private void unlinkLive(Long id, int[] signature) {
+        for (int b = 0; b < bands; b++) {
+            liveBuckets.get(b).computeIfPresent(bandKey(signature, b), (k, ids) -> {
+                long[] rest = without(ids, id);
+                return rest.length == 0 ? null : rest;
+            });
+        }
+    }
+
+    private static long bandKey(int[] signature, int offset, int band, int rows) {
+        long h = 1125899906842597L;
+        for (int i = offset + band * rows, end = i + rows; i < end; i++) {
+            h = 31 * h + signature[i];
+        }
+        return h;
+    }
+
+    private long bandKey(int[] signature, int band) {
+        return bandKey(signature, 0, band, rows);
+    }
+
+    private void checkLength(int[] signature) {
+        if (signature.length != bands * rows) {
+            throw new IllegalArgumentException("서명 길이가 bands x rows와 다릅니다.");
+        }
+    }
+
+    private static int lowerBound(long[] keys, long key) {
+        int lo = 0;
+        int hi = keys.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (keys[mid] < key) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    private static long[] concat(long[] a, long[] b) {
+        long[] result = Arrays.copyOf(a, a.length + b.length);
+        System.arraycopy(b, 0, result, a.length, b.length);
+        return result;
+    }
+
+    private static long[] without(long[] ids, long id) {
+        long[] result = new long[ids.length];
+        int n = 0;
+        for (long other : ids) {
+            if (other != id) {
+                result[n++] = other;
+            }
+        }
+        return Arrays.copyOf(result, n);
+    }
+
+    // keys 기준 오름차순으로 keys와 payload를 함께 정렬 (박싱 없이)
+    private static void sort(long[] keys, int[] payload, int from, int to) {
+        while (to - from > 16) {
+            long pivot = keys[(from + to) >>> 1];
+            int i = from;
+            int j = to - 1;
+            while (i <= j) {
+                while (keys[i] < pivot) {
+                    i++;
+                }
+                while (keys[j] > pivot) {
+                    j--;
+                }
+                if (i <= j) {
+                    swap(keys, payload, i++, j--);
+                }
+            }
+            // 작은 쪽만 재귀해서 스택 깊이를 log n으로 제한
+            if (j - from < to - i) {
+                sort(keys, payload, from, j + 1);
+                from = i;
+            } else {
+                sort(keys, payload, i, to);
+                to = j + 1;
+            }
+        }
+        for (int i = from + 1; i < to; i++) {
+            for (int j = i; j > from && keys[j - 1] > keys[j]; j--) {
+                swap(keys, payload, j, j - 1);
+            }
+        }
+    }
+
+    private static void swap(long[] keys, int[] payload, int i, int j) {
+        long k = keys[i];
+        keys[i] = keys[j];
+        keys[j] = k;
+        int p = payload[i];
+        payload[i] = payload[j];
+        payload[j] = p;
+    }
+
+    public record Neighbor(Long id, double similarity) {
+    }
+
+    /**
+     * 재빌드용 빌더. 서명을 하나의 int[]에 이어 붙여 모은 뒤 build()에서 정렬된 기본 배열을 만든다.
+     * 같은 id가 여러 번 들어오면 마지막 것만 남는다.
+     */
+    public static final class Builder {
+
+        private final int bands;
+        private final int rows;
+        private long[] ids = new long[1024];
+        private int[] signatures;
+        private int count;
+
+        private Builder(int bands, int rows) {
+            if (bands <= 0 || rows <= 0) {
+                throw new IllegalArgumentException("bands, rows는 1 이상이어야 합니다.");
+            }
+            this.bands = bands;
+            this.rows = rows;
+            this.signatures = new int[ids.length * bands * rows];
+        }
+
+        public Builder add(long id, int[] signature) {
+            int length = bands * rows;
+            if (signature.length != length) {
+                throw new IllegalArgumentException("서명 길이가 bands x rows와 다릅니다.");
+            }
+            if (count == ids.length) {
+                ids = Arrays.copyOf(ids, count * 2);
+                signatures = Arrays.copyOf(signatures, count * 2 * length);
+            }
+            ids[count] = id;
+            System.arraycopy(signature, 0, signatures, count * length, length);
+            count++;
+            return this;
+        }
+
+        public LshIndex build() {
+            int length = bands * rows;
+
+            // id 오름차순 행 순서 (같은 id는 나중 것 우선)
+            long[] sortedIds = Arrays.copyOf(ids, count);
+            int[] order = new int[count];
+            for (int i = 0; i < count; i++) {
+                order[i] = i;
+            }
+            sort(sortedIds, order, 0, count);
+            int n = 0;
+            for (int i = 0; i < count; i++) {
+                if (n > 0 && sortedIds[n - 1] == sortedIds[i]) {
+                    if (order[i] > order[n - 1]) {
+                        order[n - 1] = order[i];
+                    }
+                    continue;
+                }
+                sortedIds[n] = sortedIds[i];
+                order[n] = order[i];
+                n++;
+            }
+            long[] baseIds = Arrays.copyOf(sortedIds, n);
+            int[] baseSignatures = new int[n * length];
+            for (int row = 0; row < n; row++) {
+                System.arraycopy(signatures, order[row] * length, baseSignatures, row * length, length);
+            }
+
+            long[][] bandKeys = new long[bands][];
+            int[][] bandRows = new int[bands][];
+            for (int b = 0; b < bands; b++) {
+                long[] keys = new long[n];
+                int[] rowsOfBand = new int[n];
+                for (int row = 0; row < n; row++) {
+                    keys[row] = bandKey(baseSignatures, row * length, b, rows);
+                    rowsOfBand[row] = row;
+                }
+                sort(keys, rowsOfBand, 0, n);
+                bandKeys[b] = keys;
+                bandRows[b] = rowsOfBand;
+            }
+            return new LshIndex(bands, rows, baseIds, baseSignatures, bandKeys, bandRows);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.AssetTrading.Search;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+/**
+ * 상품 텍스트의 MinHash 서명 생성기.
+ * 공백을 정리한 텍스트의 문자 n-gram(shingle) 집합을 만들고, 해시 함수마다 최소값을 취한다.
+ * 두 서명에서 같은 자리 값이 일치하는 비율이 원래 shingle 집합의 Jaccard 유사도 추정치가 된다.
+ * 한글 상품명은 띄어쓰기가 일정하지 않아 단어 대신 문자 단위 shingle을 쓴다.
+ */
+public final class MinHasher {
+
+    private final int shingleSize;
+    private final long[] seeds;
+
+    public MinHasher(int numHashes, int shingleSize, long seed) {
+        if (numHashes <= 0 || shingleSize <= 0) {
+            throw new IllegalArgumentException("numHashes, shingleSize는 1 이상이어야 합니다.");
+        }
+        this.shingleSize = shingleSize;
+        this.seeds = new long[numHashes];
+        SplittableRandom random = new SplittableRandom(seed);
+        for (int i = 0; i < numHashes; i++) {
+            seeds[i] = random.nextLong();
+        }
+    }
+
+    public int numHashes() {
+        return seeds.length;
+    }
+
+    public int[] signature(String... texts) {
+        return signatureOf(shingles(texts));
+    }
+
+    // 같은 shingle 집합이면 항상 같은 서명 (벤치마크에서 정확한 Jaccard와 비교할 때도 사용)
+    public int[] signatureOf(Set<String> shingles) {
+        int[] sig = new int[seeds.length];
+        Arrays.fill(sig, Integer.MAX_VALUE);
+        for (String shingle : shingles) {
+            long base = mix(shingle.hashCode());
+            for (int i = 0; i < seeds.length; i++) {
+                int h = (int) (mix(base ^ seeds[i]) >>> 32);
+                if (h < sig[i]) {
+                    sig[i] = h;
+                }
+            }
+        }
+        return sig;
+    }
+
+    public Set<String> shingles(String... texts) {
+        StringBuilder sb = new StringBuilder();
+        for (String text : texts) {
+            if (text == null || text.isBlank()) {
+                continue;
+            }
+            if (sb.length() > 0) {
+                sb.append(' ');
+            }
+            sb.append(text.trim().toLowerCase(Locale.ROOT).replaceAll("\\s+", " "));
+        }
+        String normalized = sb.toString();
+        Set<String> result = new HashSet<>();
+        if (normalized.isEmpty()) {
+            return result;
+        }
+        if (normalized.length() <= shingleSize) {
+            result.add(normalized);
+            return result;
+        }
+        for (int i = 0; i + shingleSize <= normalized.length(); i++) {
+            result.add(normalized.substring(i, i + shingleSize));
+        }
+        return result;
+    }
+
+    // 두 서명의 일치 비율 = 추정 Jaccard 유사도
+    public static double similarity(int[] a, int[] b) {
+        int same = 0;
+        for (int i = 0; i < a.length; i++) {
+            if (a[i] == b[i]) {
+                same++;
+            }
+        }
+        return (double) same / a.length;
+    }
+
+    // murmur3 fmix64
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.AssetTrading.Search;
+
+import java.util.*;
+
+/**
+ * 상품명 자동완성용 불변 접두어 인덱스.
+ * 정규화된 제목을 정렬된 배열로 보관하고, 접두어는 연속 구간이 되므로 이진 탐색으로 구간을 찾는다.
+ * 구간 내 상위 k개는 가중치 최대 위치를 담는 세그먼트 트리(2n int)로 꺼낸다.
+ * 빌드 후에는 변경하지 않으므로 여러 스레드에서 동시에 읽어도 안전하다.
+ */
+public final class ProductTitleIndex {
+
+    private static final ProductTitleIndex EMPTY = new ProductTitleIndex(new String[0], new String[0], new long[0], new long[0]);
+
+    private final String[] keys;     // 정규화(소문자) 제목, 오름차순
+    private final String[] titles;   // 화면에 보여줄 원본 제목
+    private final long[] productIds;
+    private final long[] weights;    // 최신순/인기순 가중치
+    private final int[] tree;        // tree[n + i] = i, 내부 노드는 자식 중 가중치가 큰 위치
+    private final long maxWeight;
+
+    private ProductTitleIndex(String[] keys, String[] titles, long[] productIds, long[] weights) {
+        this.keys = keys;
+        this.titles = titles;
+        this.productIds = productIds;
+        this.weights = weights;
+        int n = keys.length;
+        this.tree = new int[2 * n];
+        for (int i = 0; i < n; i++) {
+            tree[n + i] = i;
+        }
+        for (int i = n - 1; i > 0; i--) {
+            tree[i] = heavier(tree[2 * i], tree[2 * i + 1]);
+        }
+        long max = Long.MIN_VALUE;
+        for (long w : weights) {
+            max = Math.max(max, w);
+        }
+        this.maxWeight = max;
+    }
+
+    public static ProductTitleIndex empty() {
+        return EMPTY;
+    }
+
+    // 같은 제목이 여러 번 들어오면 가중치가 가장 큰 것만 남긴다
+    public static ProductTitleIndex build(Collection<Suggestion> suggestions) {
+        TreeMap<String, Suggestion> sorted = new TreeMap<>();
+        for (Suggestion s : suggestions) {
+            if (s.title() == null || s.title().isBlank()) {
+                continue;
+            }
+            sorted.merge(normalize(s.title()), s, Suggestion::heavier);
+        }
+        int n = sorted.size();
+        String[] keys = new String[n];
+        String[] titles = new String[n];
+        long[] productIds = new long[n];
+        long[] weights = new long[n];
+        int i = 0;
+        for (Map.Entry<String, Suggestion> e : sorted.entrySet()) {
+            keys[i] = e.getKey();
+            titles[i] = e.getValue().title();
+            productIds[i] = e.getValue().productId();
+            weights[i] = e.getValue().weight();
+            i++;
+        }
+        return new ProductTitleIndex(keys, titles, productIds, weights);
+    }
+
+    public static String normalize(String text) {
+        return text.trim().toLowerCase(Locale.ROOT);
+    }
+
+    public int size() {
+        return keys.length;
+    }
+
+    // 인덱스에 들어있는 가장 큰 가중치 (비어 있으면 Long.MIN_VALUE)
+    public long maxWeight() {
+        return maxWeight;
+    }
+
+    // 정규화된 접두어로 시작하는 제목 중 가중치 상위 limit개
+    public List<Suggestion> topK(String normalizedPrefix, int limit) {
+        int from = lowerBound(normalizedPrefix);
+        int to = lowerBound(normalizedPrefix + Character.MAX_VALUE);
+        if (from >= to || limit <= 0) {
+            return List.of();
+        }
+
+        // 구간을 최대 위치 기준으로 쪼개 가며 큰 것부터 꺼낸다: O(k log n)
+        PriorityQueue<int[]> ranges = new PriorityQueue<>(
+                (a, b) -> Long.compare(weights[b[2]], weights[a[2]]));
+        ranges.add(new int[]{from, to, argMax(from, to)});
+        List<Suggestion> result = new ArrayList<>(Math.min(limit, to - from));
+        while (!ranges.isEmpty() && result.size() < limit) {
+            int[] r = ranges.poll();
+            int best = r[2];
+            result.add(new Suggestion(titles[best], productIds[best], weights[best]));
+            if (r[0] < best) {
+                ranges.add(new int[]{r[0], best, argMax(r[0], best)});
+            }
+            if (best + 1 < r[1]) {
+                ranges.add(new int[]{best + 1, r[1], argMax(best + 1, r[1])});
+            }
+        }
+        return result;
+    }
+
+    private int lowerBound(String key) {
+        int lo = 0;
+        int hi = keys.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (keys[mid].compareTo(key) < 0) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    // [from, to) 구간에서 가중치가 가장 큰 위치
+    private int argMax(int from, int to) {
+        int n = keys.length;
+        int best = from;
+        for (int l = from + n, r = to + n; l < r; l >>= 1, r >>= 1) {
+            if ((l & 1) == 1) {
+                best = heavier(best, tree[l++]);
+            }
+            if ((r & 1) == 1) {
+                best = heavier(best, tree[--r]);
+            }
+        }
+        return best;
+    }
+
+    private int heavier(int a, int b) {
+        return weights[b] > weights[a] ? b : a;
+    }
+
+    public record Suggestion(String title, long productId, long weight) {
+
+        static Suggestion heavier(Suggestion a, Suggestion b) {
+            return b.weight > a.weight ? b : a;
+        }
+    }
+}
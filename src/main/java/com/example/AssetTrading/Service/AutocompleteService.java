@@ -0,0 +1,144 @@
+package com.example.AssetTrading.Service;
+
+import com.example.AssetTrading.Entity.ProductStatus;
+import com.example.AssetTrading.Event.DomainEvent;
+import com.example.AssetTrading.Event.DomainEventHandler;
+import com.example.AssetTrading.Event.DomainEventType;
+import com.example.AssetTrading.Repository.ProductTitleView;
+import com.example.AssetTrading.Repository.SellProductRepository;
+import com.example.AssetTrading.Search.ProductTitleIndex;
+import com.example.AssetTrading.Search.ProductTitleIndex.Suggestion;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 검색창 자동완성: DB 대신 메모리 인덱스에서 접두어 검색
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AutocompleteService implements DomainEventHandler {
+
+    private static final int MAX_LIMIT = 20;
+
+    private final SellProductRepository sellProductRepository;
+
+    // 읽기는 락 없이 현재 인덱스를 그대로 사용, 재빌드 시 참조만 교체
+    private volatile ProductTitleIndex index = ProductTitleIndex.empty();
+
+    // 마지막 빌드 이후 새로 등록된 상품 (재빌드 때 인덱스로 합쳐짐)
+    private final ConcurrentMap<String, Pending> pending = new ConcurrentHashMap<>();
+
+    // 마지막 빌드 이후 삭제되었거나 판매중이 아니게 된 상품 id → 기록 순번 (재빌드에 반영되면 제거)
+    private final ConcurrentMap<Long, Long> tombstones = new ConcurrentHashMap<>();
+
+    // pending과 tombstones가 함께 쓰는 기록 순번. 재빌드는 DB 조회 직전 값 이하로 찍힌 것만 지운다
+    private final AtomicLong changeClock = new AtomicLong();
+
+    public List<String> suggest(String prefix, int limit) {
+        if (prefix == null || prefix.isBlank()) {
+            return List.of();
+        }
+        int size = Math.max(1, Math.min(limit, MAX_LIMIT));
+        String key = ProductTitleIndex.normalize(prefix);
+
+        // 숨길 상품이 섞여 있을 수 있으므로 그만큼 더 뽑는다
+        List<Suggestion> candidates = new ArrayList<>(index.topK(key, size + tombstones.size()));
+        for (Map.Entry<String, Pending> e : pending.entrySet()) {
+            if (e.getKey().startsWith(key)) {
+                candidates.add(e.getValue().suggestion());
+            }
+        }
+        candidates.sort(Comparator.comparingLong(Suggestion::weight).reversed());
+
+        // 같은 제목이 인덱스와 pending 양쪽에 있을 수 있으므로 중복 제거
+        Set<String> seen = new HashSet<>();
+        List<String> result = new ArrayList<>(size);
+        for (Suggestion s : candidates) {
+            if (result.size() == size) {
+                break;
+            }
+            if (tombstones.containsKey(s.productId())) {
+                continue;
+            }
+            if (seen.add(ProductTitleIndex.normalize(s.title()))) {
+                result.add(s.title());
+            }
+        }
+        return result;
+    }
+
+    // 등록/상태 변경/삭제를 바로 자동완성에 반영 (이벤트 버스 소비자 스레드에서 호출)
+    @Override
+    public void onEvent(DomainEvent event, long sequence, boolean endOfBatch) {
+        DomainEventType type = event.getType();
+        if (type == DomainEventType.PRODUCT_CREATED || type == DomainEventType.PRODUCT_STATUS_CHANGED) {
+            if (event.getProductStatus() == ProductStatus.AVAILABLE) {
+                tombstones.remove(event.getProductId());
+                insert(event.getProductId(), event.getProductTitle(), event.getProductStatus());
+            } else {
+                hide(event.getProductId());
+            }
+        } else if (type == DomainEventType.PRODUCT_DELETED) {
+            hide(event.getProductId());
+        }
+    }
+
+    public void insert(long productId, String title, ProductStatus status) {
+        if (status != ProductStatus.AVAILABLE || title == null || title.isBlank()) {
+            return;
+        }
+        Pending inserted = new Pending(new Suggestion(title, productId, weightOf(productId)),
+                changeClock.incrementAndGet());
+        // 같은 제목이면 무거운 쪽을 남기되 순번은 늦은 쪽을 따라 재빌드 중 등록분이 지워지지 않게 한다
+        pending.merge(ProductTitleIndex.normalize(title), inserted, (a, b) -> new Pending(
+                b.suggestion().weight() > a.suggestion().weight() ? b.suggestion() : a.suggestion(),
+                Math.max(a.stamp(), b.stamp())));
+    }
+
+    // 다음 재빌드 전까지 해당 상품을 제안에서 뺀다.
+    // 같은 제목의 다른 상품이 인덱스에 합쳐져 있었다면 그 제목도 재빌드 전까지 함께 빠진다.
+    public void hide(long productId) {
+        tombstones.put(productId, changeClock.incrementAndGet());
+        pending.values().removeIf(p -> p.suggestion().productId() == productId);
+    }
+
+    // 백그라운드에서 전체 인덱스를 새로 만들고 원자적으로 교체
+    @Scheduled(initialDelayString = "${autocomplete.rebuild.initial-delay:0}",
+            fixedDelayString = "${autocomplete.rebuild.interval:300000}")
+    public void rebuild() {
+        // 이벤트는 커밋 후에 들어오므로, DB 조회 전에 기록된 등록/삭제/상태 변경은 새 인덱스에 반영되어 있다.
+        // id 크기나 커밋 순서로는 판단할 수 없다 (낮은 id가 다시 판매중이 되거나 IDENTITY id가 역순으로 커밋될 수 있음).
+        long before = changeClock.get();
+        try {
+            List<ProductTitleView> rows = sellProductRepository.findTitlesByProductStatus(ProductStatus.AVAILABLE);
+            List<Suggestion> suggestions = new ArrayList<>(rows.size());
+            for (ProductTitleView row : rows) {
+                long productId = row.getId();
+                suggestions.add(new Suggestion(row.getProductTitle(), productId, weightOf(productId)));
+            }
+            ProductTitleIndex rebuilt = ProductTitleIndex.build(suggestions);
+            index = rebuilt;
+
+            pending.values().removeIf(p -> p.stamp() <= before);
+            tombstones.values().removeIf(t -> t <= before);
+            log.info("자동완성 인덱스 재빌드 완료: {}건", rebuilt.size());
+        } catch (RuntimeException e) {
+            // 실패하면 기존 인덱스를 계속 사용
+            log.warn("자동완성 인덱스 재빌드 실패", e);
+        }
+    }
+
+    private record Pending(Suggestion suggestion, long stamp) {
+    }
+
+    // 최신 등록 상품일수록 id가 크므로 id를 최신순 가중치로 사용
+    private static long weightOf(long productId) {
+        return productId;
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.AssetTrading.Service;
+
+import com.example.AssetTrading.Dto.SellProductResponseDto;
+import com.example.AssetTrading.Entity.ProductStatus;
+import com.example.AssetTrading.Entity.SellProduct;
+import com.example.AssetTrading.Event.DomainEvent;
+import com.example.AssetTrading.Event.DomainEventHandler;
+import com.example.AssetTrading.Event.DomainEventType;
+import com.example.AssetTrading.Repository.ProductTextView;
+import com.example.AssetTrading.Repository.SellProductRepository;
+import com.example.AssetTrading.Search.LshIndex;
+import com.example.AssetTrading.Search.MinHasher;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// 상품 상세 화면의 유사 상품 추천: 제목+설명 MinHash 서명을 LSH 인덱스에서 조회
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RecommendationService implements DomainEventHandler {
+
+    private static final int MAX_LIMIT = 20;
+    private static final int BANDS = 32;
+    private static final int ROWS = 4;
+    private static final int SHINGLE_SIZE = 3;
+
+    private final SellProductRepository sellProductRepository;
+    private final MinHasher minHasher = new MinHasher(BANDS * ROWS, SHINGLE_SIZE, 20250101L);
+
+    private volatile LshIndex index = new LshIndex(BANDS, ROWS);
+
+    // 재빌드 중 들어온 변경 (값이 null이면 삭제). 새 인덱스로 교체하기 직전에 다시 적용해서 유실되지 않게 한다
+    private final Object writeLock = new Object();
+    private Map<Long, int[]> changesDuringRebuild;
+
+    public List<SellProductResponseDto> similarTo(Long productId, int limit) {
+        int size = Math.max(1, Math.min(limit, MAX_LIMIT));
+
+        // 판매중인 상품은 인덱스의 서명을 그대로 쓰고, 인덱스에 없는 상품만 DB에서 읽어 서명을 만든다
+        int[] signature = index.signature(productId);
+        if (signature == null) {
+            SellProduct product = sellProductRepository.findById(productId)
+                    .orElseThrow(() -> new IllegalArgumentException("상품을 찾을 수 없습니다."));
+            signature = signatureOf(product.getProductTitle(), product.getProductDesc());
+            if (signature == null) {
+                return List.of();
+            }
+        }
+
+        // 인덱스가 DB보다 늦을 수 있으므로 여유 있게 뽑고 실제 상태로 다시 거른다
+        List<LshIndex.Neighbor> neighbors = index.query(signature, productId, size * 2);
+        if (neighbors.isEmpty()) {
+            return List.of();
+        }
+        List<Long> ids = neighbors.stream().map(LshIndex.Neighbor::id).collect(Collectors.toList());
+        Map<Long, SellProduct> found = sellProductRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(SellProduct::getId, Function.identity()));
+
+        return ids.stream()
+                .map(found::get)
+                .filter(p -> p != null && p.getProductStatus() == ProductStatus.AVAILABLE)
+                .limit(size)
+                .map(SellProductResponseDto::fromEntity)
+                .collect(Collectors.toList());
+    }
+
+    // 상품 등록/상태 변경/삭제를 인덱스에 반영 (이벤트 버스 소비자 스레드에서 호출)
+    @Override
+    public void onEvent(DomainEvent event, long sequence, boolean endOfBatch) {
+        DomainEventType type = event.getType();
+        if (type == DomainEventType.PRODUCT_CREATED || type == DomainEventType.PRODUCT_STATUS_CHANGED) {
+            index(event.getProductId(), event.getProductTitle(), event.getProductDesc(), event.getProductStatus());
+        } else if (type == DomainEventType.PRODUCT_DELETED) {
+            remove(event.getProductId());
+        }
+    }
+
+    // 판매중이면 인덱스에 넣고 아니면 뺀다
+    public void index(Long productId, String title, String desc, ProductStatus status) {
+        if (status != ProductStatus.AVAILABLE) {
+            remove(productId);
+            return;
+        }
+        int[] signature = signatureOf(title, desc);
+        if (signature == null) {
+            remove(productId);
+            return;
+        }
+        synchronized (writeLock) {
+            index.put(productId, signature);
+            if (changesDuringRebuild != null) {
+                changesDuringRebuild.put(productId, signature);
+            }
+        }
+    }
+
+    public void remove(Long productId) {
+        synchronized (writeLock) {
+            index.remove(productId);
+            if (changesDuringRebuild != null) {
+                changesDuringRebuild.put(productId, null);
+            }
+        }
+    }
+
+    // 주기적으로 DB 기준 전체 재빌드 후 교체
+    @Scheduled(initialDelayString = "${recommend.rebuild.initial-delay:0}",
+            fixedDelayString = "${recommend.rebuild.interval:3600000}")
+    public void rebuild() {
+        synchronized (writeLock) {
+            changesDuringRebuild = new HashMap<>();
+        }
+        try {
+            LshIndex.Builder builder = LshIndex.builder(BANDS, ROWS);
+            for (ProductTextView row : sellProductRepository.findTextByProductStatus(ProductStatus.AVAILABLE)) {
+                int[] signature = signatureOf(row.getProductTitle(), row.getProductDesc());
+                if (signature != null) {
+                    builder.add(row.getId(), signature);
+                }
+            }
+            LshIndex next = builder.build();
+            synchronized (writeLock) {
+                changesDuringRebuild.forEach((id, signature) -> {
+                    if (signature == null) {
+                        next.remove(id);
+                    } else {
+                        next.put(id, signature);
+                    }
+                });
+                index = next;
+            }
+            log.info("유사 상품 인덱스 재빌드 완료: {}건", next.size());
+        } catch (RuntimeException e) {
+            // 실패하면 기존 인덱스를 계속 사용
+            log.warn("유사 상품 인덱스 재빌드 실패", e);
+        } finally {
+            synchronized (writeLock) {
+                changesDuringRebuild = null;
+            }
+        }
+    }
+
+    // 제목과 설명이 모두 비어 있으면 null. 빈 서명끼리는 모든 band가 같아 유사도 1.0이 되므로 인덱싱하지 않는다.
+    private int[] signatureOf(String title, String desc) {
+        Set<String> shingles = minHasher.shingles(title, desc);
+        return shingles.isEmpty() ? null : minHasher.signatureOf(shingles);
+    }
+}
@@ -6,6 +6,7 @@ import com.example.AssetTrading.Dto.UserResponseDto;
 import com.example.AssetTrading.Entity.SellProduct;
 import com.example.AssetTrading.Entity.User;
 import com.example.AssetTrading.Entity.ProductStatus;
+import com.example.AssetTrading.Event.DomainEventPublisher;
 import com.example.AssetTrading.Repository.SellProductRepository;
 import com.example.AssetTrading.Repository.UserRepository;
 import jakarta.servlet.http.HttpSession;
@@ -21,11 +22,13 @@ public class SellProductService {
 
     private final SellProductRepository sellProductRepository;
     private final UserRepository userRepository;
+    private final DomainEventPublisher domainEventPublisher;
 
     public SellProductResponseDto createSellProduct(SellProductRequestDto dto) {
         SellProduct product = dto.toEntity();
         product.setProductStatus(ProductStatus.AVAILABLE);
         SellProduct saved = sellProductRepository.save(product);
+        domainEventPublisher.productCreated(saved);
         return SellProductResponseDto.fromEntity(saved);
     }
 
@@ -58,6 +61,7 @@ public class SellProductService {
 
     public void deleteSellProduct(Long productId) {
         sellProductRepository.deleteById(productId);
+        domainEventPublisher.productDeleted(productId);
     }
 
     public void updateStatus(Long productId, boolean isSellingAvailable) {
@@ -65,6 +69,7 @@ public class SellProductService {
                 .orElseThrow(() -> new IllegalArgumentException("상품을 찾을 수 없습니다."));
         product.setProductStatus(isSellingAvailable ? ProductStatus.AVAILABLE : ProductStatus.UNAVAILABLE);
         sellProductRepository.save(product);
+        domainEventPublisher.productStatusChanged(product);
     }
 
     public List<SellProductResponseDto> getVisibleProducts() {
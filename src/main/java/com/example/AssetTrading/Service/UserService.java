@@ -4,6 +4,7 @@ import com.example.AssetTrading.Dto.LoginRequestDto;
 import com.example.AssetTrading.Dto.UserRequestDto;
 import com.example.AssetTrading.Dto.UserResponseDto;
 import com.example.AssetTrading.Entity.User;
+import com.example.AssetTrading.Event.DomainEventPublisher;
 import com.example.AssetTrading.Repository.UserRepository;
 import jakarta.servlet.http.HttpSession;
 import jakarta.transaction.Transactional;
@@ -15,6 +16,7 @@ import org.springframework.stereotype.Service;
 @Transactional
 public class UserService {
     private final UserRepository userRepository;
+    private final DomainEventPublisher domainEventPublisher;
     private static final String LOGIN_USER = "LOGIN_USER";
 
     public UserResponseDto register(UserRequestDto userRequestDto) {
@@ -25,6 +27,7 @@ public class UserService {
             throw new IllegalArgumentException("이미 사용중인 이메일입니다.");
         }
         User savedUser = userRepository.save(userRequestDto.toEntity());
+        domainEventPublisher.userRegistered(savedUser);
         return UserResponseDto.fromEntity(savedUser);
     }
 
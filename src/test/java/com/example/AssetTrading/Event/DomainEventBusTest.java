@@ -0,0 +1,343 @@
+package com.example.AssetTrading.Event;
+
+import com.example.AssetTrading.Entity.ProductStatus;
+import com.example.AssetTrading.Entity.SellProduct;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DomainEventBusTest {
+
+    private static final long TIMEOUT_MS = 10_000;
+
+    @AfterEach
+    void clearTransaction() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"busy-spin", "yielding", "sleeping", "blocking"})
+    void eachProducersEventsArriveInOrderAtEveryConsumer(String waitStrategy) throws Exception {
+        int producers = 4;
+        int perProducer = 20_000;
+        OrderCheckingHandler first = new OrderCheckingHandler("first", producers);
+        OrderCheckingHandler second = new OrderCheckingHandler("second", producers);
+
+        try (DomainEventBus bus = new DomainEventBus(256, WaitStrategy.of(waitStrategy), List.of(first, second))) {
+            Thread[] threads = new Thread[producers];
+            for (int p = 0; p < producers; p++) {
+                long producer = p;
+                threads[p] = new Thread(() -> {
+                    for (long i = 1; i <= perProducer; i++) {
+                        publishDeleted(bus, (producer << 32) | i);
+                    }
+                });
+                threads[p].start();
+            }
+            for (Thread thread : threads) {
+                thread.join(TIMEOUT_MS);
+            }
+            await(() -> bus.lag("first") == 0 && bus.lag("second") == 0);
+
+            for (OrderCheckingHandler handler : List.of(first, second)) {
+                assertFalse(handler.outOfOrder.get(), handler.name());
+                assertEquals((long) producers * perProducer, handler.count.get(), handler.name());
+            }
+            assertEquals(0, bus.failureCount());
+        }
+    }
+
+    @Test
+    void producerBlocksWhenRingWrapsUntilConsumerCatchesUp() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingHandler handler = new RecordingHandler("slow", release);
+
+        try (DomainEventBus bus = new DomainEventBus(4, WaitStrategy.of("blocking"), List.of(handler))) {
+            for (long id = 1; id <= 4; id++) {
+                publishDeleted(bus, id);
+            }
+            Thread producer = new Thread(() -> publishDeleted(bus, 5L));
+            producer.start();
+
+            // 소비자가 첫 이벤트에서 멈춰 있으므로 다섯 번째 발행은 링을 한 바퀴 넘겨 대기한다
+            producer.join(300);
+            assertTrue(producer.isAlive());
+
+            release.countDown();
+            producer.join(TIMEOUT_MS);
+            assertFalse(producer.isAlive());
+            await(() -> handler.ids.size() == 5);
+            assertEquals(List.of(1L, 2L, 3L, 4L, 5L), handler.ids);
+        }
+    }
+
+    @Test
+    void closeDrainsAlreadyPublishedEvents() {
+        RecordingHandler handler = new RecordingHandler("drain", null) {
+            @Override
+            public void onEvent(DomainEvent event, long sequence, boolean endOfBatch) {
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+                super.onEvent(event, sequence, endOfBatch);
+            }
+        };
+        DomainEventBus bus = new DomainEventBus(64, WaitStrategy.of("blocking"), List.of(handler));
+        for (long id = 1; id <= 50; id++) {
+            publishDeleted(bus, id);
+        }
+
+        bus.close();
+
+        assertEquals(50, handler.ids.size());
+        assertThrows(IllegalStateException.class, bus::next);
+    }
+
+    @Test
+    void lagCountsEventsNotYetHandled() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingHandler handler = new RecordingHandler("lagging", release);
+
+        try (DomainEventBus bus = new DomainEventBus(16, WaitStrategy.of("blocking"), List.of(handler))) {
+            assertEquals(0, bus.lag("lagging"));
+            for (long id = 1; id <= 3; id++) {
+                publishDeleted(bus, id);
+            }
+            assertEquals(3, bus.lag("lagging"));
+            assertEquals(3, bus.publishedCount());
+
+            release.countDown();
+            await(() -> bus.lag("lagging") == 0);
+            assertThrows(IllegalArgumentException.class, () -> bus.lag("unknown"));
+        }
+    }
+
+    @Test
+    void handlerErrorIsCountedAndConsumerKeepsRunning() throws Exception {
+        RecordingHandler handler = new RecordingHandler("failing", null) {
+            @Override
+            public void onEvent(DomainEvent event, long sequence, boolean endOfBatch) {
+                if (event.getProductId() == 1L) {
+                    throw new AssertionError("handler bug");
+                }
+                super.onEvent(event, sequence, endOfBatch);
+            }
+        };
+
+        try (DomainEventBus bus = new DomainEventBus(16, WaitStrategy.of("blocking"), List.of(handler))) {
+            publishDeleted(bus, 1L);
+            publishDeleted(bus, 2L);
+
+            await(() -> handler.ids.size() == 1);
+            assertEquals(List.of(2L), handler.ids);
+            assertEquals(1, bus.failureCount());
+            assertTrue(bus.isAlive("failing"));
+        }
+    }
+
+    @Test
+    void deadConsumerDoesNotBlockProducers() throws Exception {
+        RecordingHandler handler = new RecordingHandler("dead", null);
+        WaitStrategy broken = (attempt, ready) -> {
+            throw new IllegalStateException("wait strategy bug");
+        };
+
+        try (DomainEventBus bus = new DomainEventBus(4, broken, List.of(handler))) {
+            await(() -> !bus.isAlive("dead"));
+
+            assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+                for (long id = 1; id <= 20; id++) {
+                    publishDeleted(bus, id);
+                }
+            });
+            assertEquals(20, bus.lag("dead"));
+        }
+    }
+
+    @Test
+    void idleBlockingConsumerSleepsUntilPublishAndWakesPromptly() throws Exception {
+        WaitStrategy blocking = WaitStrategy.of("blocking");
+        AtomicInteger idleCalls = new AtomicInteger();
+        WaitStrategy counting = new WaitStrategy() {
+            @Override
+            public void idle(int attempt, BooleanSupplier ready) throws InterruptedException {
+                idleCalls.incrementAndGet();
+                blocking.idle(attempt, ready);
+            }
+
+            @Override
+            public void signalAll() {
+                blocking.signalAll();
+            }
+        };
+        RecordingHandler handler = new RecordingHandler("idle", null);
+
+        try (DomainEventBus bus = new DomainEventBus(16, counting, List.of(handler))) {
+            // 시간 제한 대기였다면 200ms 동안 수백 번 깨어난다
+            Thread.sleep(200);
+            assertTrue(idleCalls.get() <= 1, "idle 호출 " + idleCalls.get() + "회");
+
+            long start = System.nanoTime();
+            publishDeleted(bus, 1L);
+            await(() -> handler.ids.size() == 1);
+            long wakeMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            assertTrue(wakeMillis < 100, "발행 후 " + wakeMillis + "ms 뒤에 처리됨");
+        }
+    }
+
+    @Test
+    void publisherWaitsForCommit() throws Exception {
+        RecordingHandler handler = new RecordingHandler("commit", null);
+
+        try (DomainEventBus bus = new DomainEventBus(16, WaitStrategy.of("blocking"), List.of(handler))) {
+            DomainEventPublisher publisher = new DomainEventPublisher(bus);
+            beginTransaction();
+
+            publisher.productCreated(product(7L));
+            assertEquals(0, bus.publishedCount());
+
+            TransactionSynchronizationUtils.triggerAfterCommit();
+            await(() -> handler.ids.size() == 1);
+            assertEquals(List.of(7L), handler.ids);
+            assertEquals(List.of(DomainEventType.PRODUCT_CREATED), handler.types);
+        }
+    }
+
+    @Test
+    void publisherDropsEventsOnRollback() {
+        RecordingHandler handler = new RecordingHandler("rollback", null);
+
+        try (DomainEventBus bus = new DomainEventBus(16, WaitStrategy.of("blocking"), List.of(handler))) {
+            DomainEventPublisher publisher = new DomainEventPublisher(bus);
+            beginTransaction();
+
+            publisher.productStatusChanged(product(8L));
+            publisher.productDeleted(8L);
+            TransactionSynchronizationUtils.invokeAfterCompletion(
+                    TransactionSynchronizationManager.getSynchronizations(), TransactionSynchronization.STATUS_ROLLED_BACK);
+
+            assertEquals(0, bus.publishedCount());
+        }
+    }
+
+    @Test
+    void publisherPublishesImmediatelyWithoutTransaction() throws Exception {
+        RecordingHandler handler = new RecordingHandler("direct", null);
+
+        try (DomainEventBus bus = new DomainEventBus(16, WaitStrategy.of("blocking"), List.of(handler))) {
+            new DomainEventPublisher(bus).productDeleted(9L);
+
+            await(() -> handler.ids.size() == 1);
+            assertEquals(List.of(DomainEventType.PRODUCT_DELETED), handler.types);
+        }
+    }
+
+    private static void beginTransaction() {
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+    }
+
+    private static SellProduct product(Long id) {
+        return SellProduct.builder()
+                .id(id)
+                .productTitle("지게차")
+                .productStatus(ProductStatus.AVAILABLE)
+                .build();
+    }
+
+    private static void publishDeleted(DomainEventBus bus, long productId) {
+        long sequence = bus.next();
+        bus.get(sequence).fillProductDeleted(productId);
+        bus.publish(sequence);
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MS;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                fail("시간 안에 조건을 만족하지 못했습니다.");
+            }
+            Thread.sleep(1);
+        }
+    }
+
+    // productId 상위 32비트 = 발행자 번호, 하위 32비트 = 발행자별 순번
+    private static final class OrderCheckingHandler implements DomainEventHandler {
+
+        private final String name;
+        private final long[] last;
+        private final AtomicLong count = new AtomicLong();
+        private final AtomicBoolean outOfOrder = new AtomicBoolean();
+
+        private OrderCheckingHandler(String name, int producers) {
+            this.name = name;
+            this.last = new long[producers];
+        }
+
+        @Override
+        public void onEvent(DomainEvent event, long sequence, boolean endOfBatch) {
+            int producer = (int) (event.getProductId() >>> 32);
+            long index = event.getProductId() & 0xffffffffL;
+            if (index != last[producer] + 1) {
+                outOfOrder.set(true);
+            }
+            last[producer] = index;
+            count.incrementAndGet();
+        }
+
+        @Override
+        public String name() {
+            return name;
+        }
+    }
+
+    // 슬롯은 재사용되므로 필요한 값만 복사해 둔다
+    private static class RecordingHandler implements DomainEventHandler {
+
+        private final String name;
+        private final CountDownLatch release;
+        final List<Long> ids = new CopyOnWriteArrayList<>();
+        final List<DomainEventType> types = new CopyOnWriteArrayList<>();
+
+        RecordingHandler(String name, CountDownLatch release) {
+            this.name = name;
+            this.release = release;
+        }
+
+        @Override
+        public void onEvent(DomainEvent event, long sequence, boolean endOfBatch) {
+            if (release != null) {
+                try {
+                    release.await(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            ids.add(event.getProductId());
+            types.add(event.getType());
+        }
+
+        @Override
+        public String name() {
+            return name;
+        }
+    }
+}
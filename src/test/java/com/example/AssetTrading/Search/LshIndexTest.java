@@ -0,0 +1,65 @@
+package com.example.AssetTrading.Search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LshIndexTest {
+
+    private final MinHasher hasher = new MinHasher(8, 3, 1L);
+
+    @Test
+    void removedBaseEntriesAreNotReturnedUntilPutAgain() {
+        int[] forklift = hasher.signature("중고 지게차 2톤 판매");
+        LshIndex index = LshIndex.builder(4, 2)
+                .add(1, forklift)
+                .add(2, forklift)
+                .build();
+
+        index.remove(2L);
+        assertEquals(1, index.size());
+        assertTrue(ids(index.query(forklift, 1L, 10)).isEmpty());
+
+        index.put(2L, forklift);
+        assertEquals(2, index.size());
+        assertEquals(List.of(2L), ids(index.query(forklift, 1L, 10)));
+    }
+
+    @Test
+    void updatedBaseEntryIsScoredWithItsNewSignature() {
+        int[] forklift = hasher.signature("중고 지게차 2톤 판매");
+        int[] monitor = hasher.signature("사무용 모니터 27인치");
+        LshIndex index = LshIndex.builder(4, 2)
+                .add(1, forklift)
+                .add(2, forklift)
+                .build();
+
+        index.put(2L, monitor);
+
+        assertEquals(2, index.size());
+        assertTrue(ids(index.query(forklift, 1L, 10)).isEmpty());
+        assertEquals(List.of(2L), ids(index.query(monitor, 1L, 10)));
+    }
+
+    @Test
+    void builderKeepsLastSignatureForDuplicateIds() {
+        int[] forklift = hasher.signature("중고 지게차 2톤 판매");
+        int[] monitor = hasher.signature("사무용 모니터 27인치");
+        LshIndex index = LshIndex.builder(4, 2)
+                .add(3, forklift)
+                .add(1, monitor)
+                .add(3, monitor)
+                .build();
+
+        assertEquals(2, index.size());
+        assertEquals(List.of(3L), ids(index.query(monitor, 1L, 10)));
+        assertTrue(ids(index.query(forklift, 1L, 10)).isEmpty());
+    }
+
+    private static List<Long> ids(List<LshIndex.Neighbor> neighbors) {
+        return neighbors.stream().map(LshIndex.Neighbor::id).toList();
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.AssetTrading.Search;
+
+import com.example.AssetTrading.Search.ProductTitleIndex.Suggestion;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ProductTitleIndexTest {
+
+    @Test
+    void topKMatchesBruteForcePrefixFilter() {
+        Random random = new Random(11);
+        String alphabet = "abc가나";
+        List<Long> weights = new ArrayList<>();
+        for (long w = 1; w <= 500; w++) {
+            weights.add(w);
+        }
+        Collections.shuffle(weights, random);
+
+        // 가중치가 모두 달라야 순서가 하나로 정해진다
+        Map<String, Suggestion> unique = new HashMap<>();
+        for (Long weight : weights) {
+            String title = randomText(random, alphabet, 1 + random.nextInt(6));
+            unique.merge(ProductTitleIndex.normalize(title), new Suggestion(title, weight, weight),
+                    (a, b) -> b.weight() > a.weight() ? b : a);
+        }
+        ProductTitleIndex index = ProductTitleIndex.build(unique.values());
+
+        for (int q = 0; q < 300; q++) {
+            String prefix = randomText(random, alphabet, random.nextInt(4));
+            int limit = 1 + random.nextInt(15);
+            List<Suggestion> expected = unique.entrySet().stream()
+                    .filter(e -> e.getKey().startsWith(prefix))
+                    .map(Map.Entry::getValue)
+                    .sorted(Comparator.comparingLong(Suggestion::weight).reversed())
+                    .limit(limit)
+                    .collect(Collectors.toList());
+            assertEquals(expected, index.topK(prefix, limit), "prefix=" + prefix + ", limit=" + limit);
+        }
+    }
+
+    @Test
+    void buildKeepsHeaviestOfDuplicateTitles() {
+        ProductTitleIndex index = ProductTitleIndex.build(List.of(
+                new Suggestion("Apple Mac", 3, 3),
+                new Suggestion("  APPLE MAC ", 9, 9),
+                new Suggestion("apple mac", 5, 5),
+                new Suggestion("", 100, 100),
+                new Suggestion(null, 100, 100)));
+
+        assertEquals(1, index.size());
+        assertEquals(9, index.maxWeight());
+        assertEquals(List.of(new Suggestion("  APPLE MAC ", 9, 9)), index.topK("apple", 10));
+    }
+
+    @Test
+    void emptyIndexReturnsNothing() {
+        assertTrue(ProductTitleIndex.empty().topK("a", 5).isEmpty());
+        assertTrue(ProductTitleIndex.build(List.of()).topK("", 5).isEmpty());
+        assertEquals(Long.MIN_VALUE, ProductTitleIndex.empty().maxWeight());
+    }
+
+    @Test
+    void prefixOutsideKeyRangeReturnsNothing() {
+        ProductTitleIndex index = ProductTitleIndex.build(List.of(
+                new Suggestion("banana", 1, 1), new Suggestion("cherry", 2, 2)));
+
+        assertTrue(index.topK("a", 5).isEmpty());
+        assertTrue(index.topK("z", 5).isEmpty());
+        assertTrue(index.topK("bananas", 5).isEmpty());
+    }
+
+    @Test
+    void limitLargerThanRangeReturnsWholeRange() {
+        ProductTitleIndex index = ProductTitleIndex.build(List.of(
+                new Suggestion("apple", 1, 1), new Suggestion("apricot", 3, 3), new Suggestion("banana", 2, 2)));
+
+        assertEquals(List.of(new Suggestion("apricot", 3, 3), new Suggestion("apple", 1, 1)), index.topK("ap", 100));
+        assertTrue(index.topK("ap", 0).isEmpty());
+    }
+
+    private static String randomText(Random random, String alphabet, int length) {
+        StringBuilder sb = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            sb.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,208 @@
+package com.example.AssetTrading.Search;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// MinHash/LSH 유사 상품 조회를 정확한 Jaccard 전수 비교와 비교하는 재현율/지연시간/메모리 벤치마크
+class SimilarityBenchmarkTest {
+
+    private static final int PRODUCTS = 5_000;
+    private static final int QUERIES = 200;
+    private static final int TOP_N = 10;
+    private static final double RELEVANT = 0.5;   // 이 이상 겹치는 상품만 "유사"로 본다
+    private static final long MAX_BYTES_PER_PRODUCT = 1_024;   // band 32개 x 12바이트 + 서명 512바이트 + id
+
+    private static final String[] WORDS = {
+            "중고", "지게차", "굴삭기", "사무용", "책상", "의자", "모니터", "노트북", "서버", "랙",
+            "냉장고", "컨베이어", "포장기", "프린터", "복합기", "발전기", "컴프레서", "선반", "밀링", "용접기",
+            "상태", "양호", "급처", "일괄", "판매", "정품", "보증", "설치", "가능", "직거래",
+            "2톤", "3톤", "24인치", "27인치", "스테인리스", "산업용", "업소용", "대형", "소형", "리퍼"
+    };
+
+    // 시드가 고정되어 있어 결과가 항상 같다
+    @Test
+    void lshRecallAgainstBruteForce() {
+        Corpus corpus = new Corpus(new Random(42));
+        Random random = new Random(43);
+
+        int relevantTotal = 0;
+        int relevantFound = 0;
+        for (int q = 0; q < QUERIES; q++) {
+            int target = random.nextInt(PRODUCTS);
+            Set<Long> approxIds = new HashSet<>();
+            corpus.index.query(corpus.signatures.get(target), (long) target, TOP_N)
+                    .forEach(n -> approxIds.add(n.id()));
+            for (long[] e : bruteForce(corpus.shingles, target)) {
+                if (Double.longBitsToDouble(e[1]) >= RELEVANT) {
+                    relevantTotal++;
+                    if (approxIds.contains(e[0])) {
+                        relevantFound++;
+                    }
+                }
+            }
+        }
+
+        double recall = (double) relevantFound / relevantTotal;
+        assertTrue(relevantTotal > 0);
+        assertTrue(recall >= 0.9, "recall " + recall);
+    }
+
+    // ./gradlew benchmark 로만 실행 (기본 test 에서는 제외)
+    @Test
+    @Tag("benchmark")
+    void lshLatencyAgainstBruteForce() {
+        Corpus corpus = new Corpus(new Random(42));
+        Random random = new Random(43);
+
+        // JIT 워밍업
+        for (int q = 0; q < QUERIES; q++) {
+            int target = random.nextInt(PRODUCTS);
+            corpus.index.query(corpus.signatures.get(target), (long) target, TOP_N);
+            bruteForce(corpus.shingles, target);
+        }
+
+        long lshNanos = 0;
+        long bruteNanos = 0;
+        for (int q = 0; q < QUERIES; q++) {
+            int target = random.nextInt(PRODUCTS);
+
+            long start = System.nanoTime();
+            corpus.index.query(corpus.signatures.get(target), (long) target, TOP_N);
+            lshNanos += System.nanoTime() - start;
+
+            start = System.nanoTime();
+            bruteForce(corpus.shingles, target);
+            bruteNanos += System.nanoTime() - start;
+        }
+
+        double lshMicros = lshNanos / 1_000.0 / QUERIES;
+        double bruteMicros = bruteNanos / 1_000.0 / QUERIES;
+        System.out.printf("평균 조회 시간: LSH %.1fus, 전수 Jaccard %.1fus (상품 %d개)%n",
+                lshMicros, bruteMicros, PRODUCTS);
+        assertTrue(lshMicros < bruteMicros, "LSH가 전수 비교보다 느림");
+    }
+
+    // 재빌드로 만든 기본 배열의 크기. 상품당 1KB를 넘으면 박싱된 버킷으로 되돌아간 것
+    @Test
+    void rebuiltIndexStaysCompact() {
+        Corpus corpus = new Corpus(new Random(42));
+        LshIndex.Builder builder = LshIndex.builder(32, 4);
+        for (int i = 0; i < PRODUCTS; i++) {
+            builder.add(i, corpus.signatures.get(i));
+        }
+        LshIndex rebuilt = builder.build();
+
+        assertEquals(PRODUCTS, rebuilt.size());
+        long perProduct = rebuilt.estimatedBytes() / PRODUCTS;
+        assertTrue(perProduct <= MAX_BYTES_PER_PRODUCT, "상품당 " + perProduct + "바이트");
+    }
+
+    // 실제 힙 사용량 측정 (GC 시점에 따라 흔들리므로 benchmark 에서만)
+    @Test
+    @Tag("benchmark")
+    void lshHeapPerProduct() {
+        Corpus corpus = new Corpus(new Random(42));
+        int products = PRODUCTS * 10;
+
+        long before = usedHeap();
+        LshIndex.Builder builder = LshIndex.builder(32, 4);
+        for (int i = 0; i < products; i++) {
+            builder.add(i, corpus.signatures.get(i % PRODUCTS));
+        }
+        LshIndex rebuilt = builder.build();
+        builder = null;
+        long perProduct = (usedHeap() - before) / products;
+
+        System.out.printf("LSH 인덱스 힙 사용량: 상품당 %d바이트 (상품 %d개)%n", perProduct, rebuilt.size());
+        assertTrue(perProduct <= MAX_BYTES_PER_PRODUCT * 3 / 2, "상품당 " + perProduct + "바이트");
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    // 기본 문장을 몇 개 만들고 단어를 바꾸거나 덧붙여 비슷한 매물 군을 만든다
+    private static final class Corpus {
+
+        private final List<Set<String>> shingles = new ArrayList<>(PRODUCTS);
+        private final List<int[]> signatures = new ArrayList<>(PRODUCTS);
+        private final LshIndex index;
+
+        private Corpus(Random random) {
+            MinHasher hasher = new MinHasher(128, 3, 7L);
+            List<String> bases = new ArrayList<>();
+            for (int i = 0; i < PRODUCTS; i++) {
+                String text;
+                if (bases.isEmpty() || random.nextInt(5) == 0) {
+                    text = sentence(random, 8);
+                    bases.add(text);
+                } else {
+                    text = mutate(random, bases.get(random.nextInt(bases.size())));
+                }
+                Set<String> s = hasher.shingles(text);
+                int[] sig = hasher.signatureOf(s);
+                shingles.add(s);
+                signatures.add(sig);
+            }
+
+            // 앞쪽 절반은 재빌드 배열, 나머지는 재빌드 이후 등록된 것처럼 넣어 두 경로를 함께 조회한다
+            LshIndex.Builder builder = LshIndex.builder(32, 4);
+            for (int i = 0; i < PRODUCTS / 2; i++) {
+                builder.add(i, signatures.get(i));
+            }
+            index = builder.build();
+            for (int i = PRODUCTS / 2; i < PRODUCTS; i++) {
+                index.put((long) i, signatures.get(i));
+            }
+        }
+    }
+
+    // 정확한 Jaccard 상위 TOP_N: {id, Double.doubleToLongBits(jaccard)}
+    private static List<long[]> bruteForce(List<Set<String>> shingles, int target) {
+        Set<String> a = shingles.get(target);
+        PriorityQueue<long[]> top = new PriorityQueue<>(
+                Comparator.comparingDouble(e -> Double.longBitsToDouble(e[1])));
+        for (int i = 0; i < shingles.size(); i++) {
+            if (i == target) {
+                continue;
+            }
+            Set<String> b = shingles.get(i);
+            int common = 0;
+            for (String s : a) {
+                if (b.contains(s)) {
+                    common++;
+                }
+            }
+            double jaccard = (double) common / (a.size() + b.size() - common);
+            top.add(new long[]{i, Double.doubleToLongBits(jaccard)});
+            if (top.size() > TOP_N) {
+                top.poll();
+            }
+        }
+        return new ArrayList<>(top);
+    }
+
+    private static String sentence(Random random, int words) {
+        StringJoiner joiner = new StringJoiner(" ");
+        for (int i = 0; i < words; i++) {
+            joiner.add(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return joiner.toString();
+    }
+
+    private static String mutate(Random random, String base) {
+        String[] words = base.split(" ");
+        words[random.nextInt(words.length)] = WORDS[random.nextInt(WORDS.length)];
+        String text = String.join(" ", words);
+        return random.nextBoolean() ? text + " " + WORDS[random.nextInt(WORDS.length)] : text;
+    }
+}
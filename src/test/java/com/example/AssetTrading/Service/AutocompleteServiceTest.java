@@ -0,0 +1,129 @@
+package com.example.AssetTrading.Service;
+
+import com.example.AssetTrading.Entity.ProductStatus;
+import com.example.AssetTrading.Event.DomainEvent;
+import com.example.AssetTrading.Event.DomainEventType;
+import com.example.AssetTrading.Repository.ProductTitleView;
+import com.example.AssetTrading.Repository.SellProductRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AutocompleteServiceTest {
+
+    private final SellProductRepository sellProductRepository = mock(SellProductRepository.class);
+    private final AutocompleteService autocompleteService = new AutocompleteService(sellProductRepository);
+
+    @Test
+    void suggestMergesPendingWithIndexByWeight() {
+        rebuildWith(view(1L, "지게차 2톤"), view(3L, "지게차 3톤"));
+
+        autocompleteService.insert(5L, "지게차 부품", ProductStatus.AVAILABLE);
+        autocompleteService.insert(6L, "굴삭기", ProductStatus.AVAILABLE);
+
+        assertEquals(List.of("지게차 부품", "지게차 3톤", "지게차 2톤"), autocompleteService.suggest("지게", 10));
+        assertEquals(List.of("지게차 부품"), autocompleteService.suggest("지게", 1));
+    }
+
+    @Test
+    void suggestRemovesDuplicateTitlesAcrossIndexAndPending() {
+        rebuildWith(view(1L, "Office Chair"));
+
+        autocompleteService.insert(4L, "office chair", ProductStatus.AVAILABLE);
+
+        assertEquals(List.of("office chair"), autocompleteService.suggest("off", 10));
+    }
+
+    @Test
+    void insertIgnoresUnavailableOrBlankTitles() {
+        autocompleteService.insert(1L, "모니터", ProductStatus.UNAVAILABLE);
+        autocompleteService.insert(2L, " ", ProductStatus.AVAILABLE);
+
+        assertTrue(autocompleteService.suggest("모", 10).isEmpty());
+        assertTrue(autocompleteService.suggest(" ", 10).isEmpty());
+    }
+
+    @Test
+    void rebuildKeepsEntriesInsertedWhileReadingTheDatabase() {
+        autocompleteService.insert(2L, "책상", ProductStatus.AVAILABLE);
+
+        // 조회 도중 낮은 id 상품이 다시 판매중이 되어 커밋됐다 (조회 결과에는 없음)
+        when(sellProductRepository.findTitlesByProductStatus(ProductStatus.AVAILABLE)).thenAnswer(invocation -> {
+            autocompleteService.insert(1L, "선반", ProductStatus.AVAILABLE);
+            return List.of(view(10L, "의자"));
+        });
+        autocompleteService.rebuild();
+
+        assertEquals(List.of("선반"), autocompleteService.suggest("선", 10));
+        assertEquals(List.of("의자"), autocompleteService.suggest("의", 10));
+        // 조회 전에 들어온 책상은 조회 결과에 빠졌으므로 (그 사이 삭제됨) 더 이상 제안하지 않는다
+        assertTrue(autocompleteService.suggest("책", 10).isEmpty());
+
+        // 다음 재빌드에서 조회 결과에 포함되면 pending에서 빠진다
+        rebuildWith(view(10L, "의자"));
+        assertTrue(autocompleteService.suggest("선", 10).isEmpty());
+    }
+
+    @Test
+    void deletedOrUnavailableProductsAreHiddenUntilRebuild() {
+        rebuildWith(view(1L, "냉장고 업소용"), view(2L, "냉동고"));
+        autocompleteService.insert(3L, "냉장 쇼케이스", ProductStatus.AVAILABLE);
+
+        autocompleteService.onEvent(event(DomainEventType.PRODUCT_DELETED, 1L, null, null), 0, true);
+        autocompleteService.onEvent(event(DomainEventType.PRODUCT_STATUS_CHANGED, 3L, "냉장 쇼케이스",
+                ProductStatus.UNAVAILABLE), 1, true);
+        assertEquals(List.of("냉동고"), autocompleteService.suggest("냉", 10));
+
+        // 다시 판매중이 되면 바로 보인다
+        autocompleteService.onEvent(event(DomainEventType.PRODUCT_STATUS_CHANGED, 3L, "냉장 쇼케이스",
+                ProductStatus.AVAILABLE), 2, true);
+        assertEquals(List.of("냉장 쇼케이스", "냉동고"), autocompleteService.suggest("냉", 10));
+
+        // 재빌드 결과에 반영된 삭제 기록은 지워진다 (같은 id가 다시 조회되면 다시 보인다)
+        rebuildWith(view(1L, "냉장고 업소용"), view(2L, "냉동고"), view(3L, "냉장 쇼케이스"));
+        assertEquals(List.of("냉장 쇼케이스", "냉동고", "냉장고 업소용"), autocompleteService.suggest("냉", 10));
+    }
+
+    @Test
+    void hiddenProductsDoNotShrinkTheResult() {
+        rebuildWith(view(1L, "a1"), view(2L, "a2"), view(3L, "a3"), view(4L, "a4"));
+
+        autocompleteService.hide(4L);
+        autocompleteService.hide(3L);
+
+        assertEquals(List.of("a2", "a1"), autocompleteService.suggest("a", 2));
+    }
+
+    private static DomainEvent event(DomainEventType type, long productId, String title, ProductStatus status) {
+        DomainEvent event = mock(DomainEvent.class);
+        when(event.getType()).thenReturn(type);
+        when(event.getProductId()).thenReturn(productId);
+        when(event.getProductTitle()).thenReturn(title);
+        when(event.getProductStatus()).thenReturn(status);
+        return event;
+    }
+
+    private void rebuildWith(ProductTitleView... rows) {
+        when(sellProductRepository.findTitlesByProductStatus(ProductStatus.AVAILABLE)).thenReturn(List.of(rows));
+        autocompleteService.rebuild();
+    }
+
+    private static ProductTitleView view(Long id, String title) {
+        return new ProductTitleView() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getProductTitle() {
+                return title;
+            }
+        };
+    }
+}
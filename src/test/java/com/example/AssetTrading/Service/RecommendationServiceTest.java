@@ -0,0 +1,77 @@
+package com.example.AssetTrading.Service;
+
+import com.example.AssetTrading.Dto.SellProductResponseDto;
+import com.example.AssetTrading.Entity.ProductStatus;
+import com.example.AssetTrading.Entity.SellProduct;
+import com.example.AssetTrading.Repository.SellProductRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RecommendationServiceTest {
+
+    private final SellProductRepository sellProductRepository = mock(SellProductRepository.class);
+    private final RecommendationService recommendationService = new RecommendationService(sellProductRepository);
+
+    @Test
+    void productsWithoutTextAreNotIndexedOrQueried() {
+        SellProduct blankA = product(1L, null, " ");
+        SellProduct blankB = product(2L, "", null);
+        SellProduct forklift = product(3L, "중고 지게차 2톤", "상태 양호");
+        SellProduct forklift3 = product(4L, "중고 지게차 3톤", "상태 양호");
+        for (SellProduct p : List.of(blankA, blankB, forklift, forklift3)) {
+            recommendationService.index(p.getId(), p.getProductTitle(), p.getProductDesc(), p.getProductStatus());
+            when(sellProductRepository.findById(p.getId())).thenReturn(Optional.of(p));
+        }
+        when(sellProductRepository.findAllById(anyIterable())).thenReturn(List.of(blankA, blankB, forklift, forklift3));
+
+        // 빈 텍스트끼리 유사도 1.0으로 묶이지 않는다
+        assertTrue(recommendationService.similarTo(1L, 5).isEmpty());
+
+        List<SellProductResponseDto> similar = recommendationService.similarTo(3L, 5);
+        assertEquals(1, similar.size());
+        assertEquals("중고 지게차 3톤", similar.get(0).getProductTitle());
+    }
+
+    @Test
+    void indexedProductsAreQueriedWithoutLoadingThemAgain() {
+        SellProduct forklift = product(3L, "중고 지게차 2톤", "상태 양호");
+        SellProduct forklift3 = product(4L, "중고 지게차 3톤", "상태 양호");
+        for (SellProduct p : List.of(forklift, forklift3)) {
+            recommendationService.index(p.getId(), p.getProductTitle(), p.getProductDesc(), p.getProductStatus());
+        }
+        when(sellProductRepository.findAllById(anyIterable())).thenReturn(List.of(forklift, forklift3));
+
+        assertEquals(1, recommendationService.similarTo(3L, 5).size());
+        verify(sellProductRepository, never()).findById(any());
+
+        // 판매완료로 빠진 상품은 DB에서 읽어 서명을 만든다
+        recommendationService.index(4L, forklift3.getProductTitle(), forklift3.getProductDesc(), ProductStatus.SOLD_OUT);
+        when(sellProductRepository.findById(4L)).thenReturn(Optional.of(forklift3));
+        when(sellProductRepository.findAllById(anyIterable())).thenReturn(List.of(forklift));
+
+        List<SellProductResponseDto> similar = recommendationService.similarTo(4L, 5);
+        assertEquals(1, similar.size());
+        assertEquals("중고 지게차 2톤", similar.get(0).getProductTitle());
+        verify(sellProductRepository).findById(4L);
+    }
+
+    private static SellProduct product(Long id, String title, String desc) {
+        return SellProduct.builder()
+                .id(id)
+                .productTitle(title)
+                .productDesc(desc)
+                .productStatus(ProductStatus.AVAILABLE)
+                .build();
+    }
+}